@@ -1 +1 @@
-memberSearchIndex = [{"p":"model","c":"SpeciesType","l":"AQUATIC_FAUNA"},{"p":"model","c":"SpeciesType","l":"AQUATIC_FLORA"},{"p":"model","c":"SpeciesType","l":"BIRD"},{"p":"ui","c":"SpeciesExecutable","l":"deleteSpecies()"},{"p":"model","c":"SpeciesController","l":"deleteSpecies(int)"},{"p":"ui","c":"SpeciesExecutable","l":"editSpecies()"},{"p":"model","c":"SpeciesController","l":"editSpecies(int, String, String)","u":"editSpecies(int,java.lang.String,java.lang.String)"},{"p":"model","c":"Fauna","l":"Fauna(String, String, SpeciesType, boolean, double)","u":"%3Cinit%3E(java.lang.String,java.lang.String,model.SpeciesType,boolean,double)"},{"p":"model","c":"Flora","l":"Flora(String, String, SpeciesType, boolean, boolean, double)","u":"%3Cinit%3E(java.lang.String,java.lang.String,model.SpeciesType,boolean,boolean,double)"},{"p":"model","c":"Flora","l":"getMaxHeight()"},{"p":"model","c":"Fauna","l":"getMaxWeight()"},{"p":"model","c":"Species","l":"getName()"},{"p":"model","c":"Species","l":"getScientificName()"},{"p":"model","c":"Fauna","l":"getSpeciesInfo()"},{"p":"model","c":"Flora","l":"getSpeciesInfo()"},{"p":"model","c":"Species","l":"getSpeciesInfo()"},{"p":"model","c":"SpeciesController","l":"getSpeciesInfo(int)"},{"p":"model","c":"SpeciesController","l":"getSpeciesName(int)"},{"p":"model","c":"SpeciesController","l":"getSpeciesScientificName(int)"},{"p":"model","c":"Species","l":"getType()"},{"p":"model","c":"Flora","l":"isHasFlowers()"},{"p":"model","c":"Flora","l":"isHasFruits()"},{"p":"model","c":"Fauna","l":"isMigratory()"},{"p":"model","c":"SpeciesType","l":"LAND_FLORA"},{"p":"ui","c":"SpeciesExecutable","l":"main(String[])","u":"main(java.lang.String[])"},{"p":"model","c":"SpeciesType","l":"MAMMAL"},{"p":"model","c":"SpeciesController","l":"registerFauna(String, String, SpeciesType, boolean, double)","u":"registerFauna(java.lang.String,java.lang.String,model.SpeciesType,boolean,double)"},{"p":"model","c":"SpeciesController","l":"registerFlora(String, String, SpeciesType, boolean, boolean, double)","u":"registerFlora(java.lang.String,java.lang.String,model.SpeciesType,boolean,boolean,double)"},{"p":"ui","c":"SpeciesExecutable","l":"registerSpecies()"},{"p":"model","c":"Flora","l":"setHasFlowers(boolean)"},{"p":"model","c":"Flora","l":"setHasFruits(boolean)"},{"p":"model","c":"Flora","l":"setMaxHeight(double)"},{"p":"model","c":"Fauna","l":"setMaxWeight(double)"},{"p":"model","c":"Fauna","l":"setMigratory(boolean)"},{"p":"model","c":"Species","l":"setName(String)","u":"setName(java.lang.String)"},{"p":"model","c":"Species","l":"setScientificName(String)","u":"setScientificName(java.lang.String)"},{"p":"model","c":"Species","l":"setType(SpeciesType)","u":"setType(model.SpeciesType)"},{"p":"ui","c":"SpeciesExecutable","l":"showMainMenu()"},{"p":"ui","c":"SpeciesExecutable","l":"showSpecies()"},{"p":"model","c":"SpeciesController","l":"showSpeciesList()"},{"p":"model","c":"Species","l":"Species(String, String, SpeciesType)","u":"%3Cinit%3E(java.lang.String,java.lang.String,model.SpeciesType)"},{"p":"model","c":"SpeciesController","l":"SpeciesController()","u":"%3Cinit%3E()"},{"p":"ui","c":"SpeciesExecutable","l":"SpeciesExecutable()","u":"%3Cinit%3E()"},{"p":"model","c":"SpeciesType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"model","c":"SpeciesType","l":"values()"}];updateSearchResults();
\ No newline at end of file
+memberSearchIndex = [{"p":"model","c":"SpeciesType","l":"AQUATIC_FAUNA"},{"p":"model","c":"SpeciesType","l":"AQUATIC_FLORA"},{"p":"model","c":"SpeciesChangeType","l":"ATTRIBUTE_CHANGED"},{"p":"model","c":"SpeciesType","l":"BIRD"},{"p":"ui","c":"CatalogBenchmark","l":"CatalogBenchmark()","u":"%3Cinit%3E()"},{"p":"model","c":"ShardedSpeciesController","l":"close()"},{"p":"model","c":"SpeciesChangeSubscription","l":"close()"},{"p":"model","c":"ShardedSpeciesController","l":"countSpeciesByType(SpeciesType)","u":"countSpeciesByType(model.SpeciesType)"},{"p":"model","c":"SpeciesController","l":"countSpeciesByType(SpeciesType)","u":"countSpeciesByType(model.SpeciesType)"},{"p":"model","c":"SpeciesChangeType","l":"DELETED"},{"p":"ui","c":"SpeciesExecutable","l":"deleteSpecies()"},{"p":"model","c":"SpeciesController","l":"deleteSpecies(int)"},{"p":"model","c":"ShardedSpeciesController","l":"deleteSpecies(String)","u":"deleteSpecies(java.lang.String)"},{"p":"model","c":"BackpressurePolicy","l":"DROP_NEWEST"},{"p":"model","c":"SpeciesChangeType","l":"EDITED"},{"p":"model","c":"SpeciesController","l":"editFaunaAttributes(int, boolean, double)","u":"editFaunaAttributes(int,boolean,double)"},{"p":"model","c":"ShardedSpeciesController","l":"editFaunaAttributes(String, boolean, double)","u":"editFaunaAttributes(java.lang.String,boolean,double)"},{"p":"model","c":"SpeciesController","l":"editFloraAttributes(int, boolean, boolean, double)","u":"editFloraAttributes(int,boolean,boolean,double)"},{"p":"model","c":"ShardedSpeciesController","l":"editFloraAttributes(String, boolean, boolean, double)","u":"editFloraAttributes(java.lang.String,boolean,boolean,double)"},{"p":"ui","c":"SpeciesExecutable","l":"editSpecies()"},{"p":"model","c":"SpeciesController","l":"editSpecies(int, String, String)","u":"editSpecies(int,java.lang.String,java.lang.String)"},{"p":"model","c":"ShardedSpeciesController","l":"editSpecies(String, String, String)","u":"editSpecies(java.lang.String,java.lang.String,java.lang.String)"},{"p":"ui","c":"SpeciesExecutable","l":"editSpeciesAttributes()"},{"p":"model","c":"Fauna","l":"Fauna(String, String, SpeciesType, boolean, double)","u":"%3Cinit%3E(java.lang.String,java.lang.String,model.SpeciesType,boolean,double)"},{"p":"model","c":"SpeciesController","l":"findSpeciesIndex(String)","u":"findSpeciesIndex(java.lang.String)"},{"p":"model","c":"Flora","l":"Flora(String, String, SpeciesType, boolean, boolean, double)","u":"%3Cinit%3E(java.lang.String,java.lang.String,model.SpeciesType,boolean,boolean,double)"},{"p":"model","c":"SpeciesChangeLog","l":"getCapacity()"},{"p":"model","c":"SpeciesController","l":"getChangeLog()"},{"p":"model","c":"ShardedSpeciesController","l":"getChangeLog(int)"},{"p":"model","c":"SpeciesChangeLog","l":"getDroppedEvents()"},{"p":"model","c":"Flora","l":"getMaxHeight()"},{"p":"model","c":"Fauna","l":"getMaxWeight()"},{"p":"model","c":"SpeciesChangeSubscription","l":"getMissedEvents()"},{"p":"model","c":"Species","l":"getName()"},{"p":"model","c":"SpeciesChangeLog","l":"getNextSequence()"},{"p":"model","c":"SpeciesChangeLog","l":"getPolicy()"},{"p":"model","c":"Species","l":"getScientificName()"},{"p":"model","c":"SpeciesChangeSubscription","l":"getSequence()"},{"p":"model","c":"ShardedSpeciesController","l":"getShardCount()"},{"p":"model","c":"ShardedSpeciesController","l":"getSpeciesCount()"},{"p":"model","c":"SpeciesController","l":"getSpeciesCount()"},{"p":"model","c":"Fauna","l":"getSpeciesInfo()"},{"p":"model","c":"Flora","l":"getSpeciesInfo()"},{"p":"model","c":"Species","l":"getSpeciesInfo()"},{"p":"model","c":"SpeciesController","l":"getSpeciesInfo(int)"},{"p":"model","c":"ShardedSpeciesController","l":"getSpeciesInfo(String)","u":"getSpeciesInfo(java.lang.String)"},{"p":"model","c":"SpeciesController","l":"getSpeciesName(int)"},{"p":"model","c":"SpeciesController","l":"getSpeciesScientificName(int)"},{"p":"model","c":"SpeciesController","l":"getSpeciesType(int)"},{"p":"model","c":"Species","l":"getType()"},{"p":"model","c":"Flora","l":"isHasFlowers()"},{"p":"model","c":"Flora","l":"isHasFruits()"},{"p":"model","c":"Fauna","l":"isMigratory()"},{"p":"model","c":"SpeciesType","l":"LAND_FLORA"},{"p":"ui","c":"CatalogBenchmark","l":"main(String[])","u":"main(java.lang.String[])"},{"p":"ui","c":"SpeciesExecutable","l":"main(String[])","u":"main(java.lang.String[])"},{"p":"model","c":"SpeciesType","l":"MAMMAL"},{"p":"model","c":"Species","l":"notifyAttributeChanged(String)","u":"notifyAttributeChanged(java.lang.String)"},{"p":"model","c":"SpeciesChangeListener","l":"onChange(long, SpeciesChangeType, String, String, boolean)","u":"onChange(long,model.SpeciesChangeType,java.lang.String,java.lang.String,boolean)"},{"p":"model","c":"BackpressurePolicy","l":"OVERWRITE_OLDEST"},{"p":"model","c":"SpeciesChangeSubscription","l":"poll(SpeciesChangeListener, int)","u":"poll(model.SpeciesChangeListener,int)"},{"p":"model","c":"SpeciesChangeType","l":"REGISTERED"},{"p":"model","c":"ShardedSpeciesController","l":"registerFauna(String, String, SpeciesType, boolean, double)","u":"registerFauna(java.lang.String,java.lang.String,model.SpeciesType,boolean,double)"},{"p":"model","c":"SpeciesController","l":"registerFauna(String, String, SpeciesType, boolean, double)","u":"registerFauna(java.lang.String,java.lang.String,model.SpeciesType,boolean,double)"},{"p":"model","c":"ShardedSpeciesController","l":"registerFlora(String, String, SpeciesType, boolean, boolean, double)","u":"registerFlora(java.lang.String,java.lang.String,model.SpeciesType,boolean,boolean,double)"},{"p":"model","c":"SpeciesController","l":"registerFlora(String, String, SpeciesType, boolean, boolean, double)","u":"registerFlora(java.lang.String,java.lang.String,model.SpeciesType,boolean,boolean,double)"},{"p":"ui","c":"SpeciesExecutable","l":"registerSpecies()"},{"p":"model","c":"ShardedSpeciesController","l":"searchSpecies(String)","u":"searchSpecies(java.lang.String)"},{"p":"model","c":"Flora","l":"setHasFlowers(boolean)"},{"p":"model","c":"Flora","l":"setHasFruits(boolean)"},{"p":"model","c":"Flora","l":"setMaxHeight(double)"},{"p":"model","c":"Fauna","l":"setMaxWeight(double)"},{"p":"model","c":"Fauna","l":"setMigratory(boolean)"},{"p":"model","c":"Species","l":"setName(String)","u":"setName(java.lang.String)"},{"p":"model","c":"Species","l":"setScientificName(String)","u":"setScientificName(java.lang.String)"},{"p":"model","c":"Species","l":"setType(SpeciesType)","u":"setType(model.SpeciesType)"},{"p":"model","c":"ShardedSpeciesController","l":"ShardedSpeciesController(int)","u":"%3Cinit%3E(int)"},{"p":"model","c":"ShardedSpeciesController","l":"ShardedSpeciesController(int, int, BackpressurePolicy)","u":"%3Cinit%3E(int,int,model.BackpressurePolicy)"},{"p":"ui","c":"SpeciesExecutable","l":"showMainMenu()"},{"p":"ui","c":"SpeciesExecutable","l":"showSpecies()"},{"p":"model","c":"ShardedSpeciesController","l":"showSpeciesList()"},{"p":"model","c":"SpeciesController","l":"showSpeciesList()"},{"p":"model","c":"ShardedSpeciesController","l":"shutdown()"},{"p":"model","c":"Species","l":"Species(String, String, SpeciesType)","u":"%3Cinit%3E(java.lang.String,java.lang.String,model.SpeciesType)"},{"p":"model","c":"SpeciesController","l":"SpeciesController()","u":"%3Cinit%3E()"},{"p":"model","c":"SpeciesController","l":"SpeciesController(int, BackpressurePolicy)","u":"%3Cinit%3E(int,model.BackpressurePolicy)"},{"p":"ui","c":"SpeciesExecutable","l":"SpeciesExecutable()","u":"%3Cinit%3E()"},{"p":"model","c":"SpeciesChangeLog","l":"subscribe()"},{"p":"model","c":"SpeciesChangeLog","l":"subscribe(long)"},{"p":"model","c":"BackpressurePolicy","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"model","c":"SpeciesChangeType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"model","c":"SpeciesType","l":"valueOf(String)","u":"valueOf(java.lang.String)"},{"p":"model","c":"BackpressurePolicy","l":"values()"},{"p":"model","c":"SpeciesChangeType","l":"values()"},{"p":"model","c":"SpeciesType","l":"values()"}];updateSearchResults();
\ No newline at end of file
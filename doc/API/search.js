@@ -1,26 +1,26 @@
 /*
  * Copyright (c) 2015, 2023, Oracle and/or its affiliates. All rights reserved.
- * ORACLE PROPRIETARY/CONFIDENTIAL. Use is subject to license terms.
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
- *
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
  *
+ * This code is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU General Public License version 2 only, as
+ * published by the Free Software Foundation.  Oracle designates this
+ * particular file as subject to the "Classpath" exception as provided
+ * by Oracle in the LICENSE file that accompanied this code.
  *
+ * This code is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License
+ * version 2 for more details (a copy is included in the LICENSE file that
+ * accompanied this code).
  *
+ * You should have received a copy of the GNU General Public License version
+ * 2 along with this work; if not, write to the Free Software Foundation,
+ * Inc., 51 Franklin St, Fifth Floor, Boston, MA 02110-1301 USA.
  *
+ * Please contact Oracle, 500 Oracle Parkway, Redwood Shores, CA 94065 USA
+ * or visit www.oracle.com if you need additional information or have any
+ * questions.
  */
 "use strict";
 const messages = {
@@ -44,9 +44,6 @@ const categories = {
 const highlight = "<span class='result-highlight'>$&</span>";
 const NO_MATCH = {};
 const MAX_RESULTS = 300;
-const UNICODE_LETTER = 0;
-const UNICODE_DIGIT = 1;
-const UNICODE_OTHER = 2;
 function checkUnnamed(name, separator) {
     return name === "<Unnamed>" || !name ? "" : name + separator;
 }
@@ -130,13 +127,13 @@ function createMatcher(term, camelCase) {
     var pattern = "";
     var upperCase = [];
     term.trim().split(/\s+/).forEach(function(w, index, array) {
-        var tokens = w.split(/(?=[\p{Lu},.()<>?[\/])/u);
+        var tokens = w.split(/(?=[A-Z,.()<>?[\/])/);
         for (var i = 0; i < tokens.length; i++) {
             var s = tokens[i];
             // ',' and '?' are the only delimiters commonly followed by space in java signatures
-            pattern += "(" + escapeUnicodeRegex(s).replace(/[,?]/g, "$&\\s*?") + ")";
+            pattern += "(" + $.ui.autocomplete.escapeRegex(s).replace(/[,?]/g, "$&\\s*?") + ")";
             upperCase.push(false);
-            var isWordToken =  /[\p{L}\p{Nd}_]$/u.test(s);
+            var isWordToken =  /\w$/.test(s);
             if (isWordToken) {
                 if (i === tokens.length - 1 && index < array.length - 1) {
                     // space in query string matches all delimiters
@@ -146,7 +143,7 @@ function createMatcher(term, camelCase) {
                     if (!camelCase && isUpperCase(s) && s.length === 1) {
                         pattern += "()";
                     } else {
-                        pattern += "([\\p{L}\\p{Nd}\\p{Sc}<>?[\\]]*?)";
+                        pattern += "([a-z0-9$<>?[\\]]*?)";
                     }
                     upperCase.push(isUpperCase(s[0]));
                 }
@@ -156,14 +153,10 @@ function createMatcher(term, camelCase) {
             }
         }
     });
-    var re = new RegExp(pattern, "gui");
+    var re = new RegExp(pattern, "gi");
     re.upperCase = upperCase;
     return re;
 }
-// Unicode regular expressions do not allow certain characters to be escaped
-function escapeUnicodeRegex(pattern) {
-    return pattern.replace(/[\[\]{}()*+?.\\^$|\s]/g, '\\$&');
-}
 function findMatch(matcher, input, startOfName, endOfName) {
     var from = startOfName;
     matcher.lastIndex = from;
@@ -183,25 +176,20 @@ function findMatch(matcher, input, startOfName, endOfName) {
     var start = match.index;
     var prevEnd = -1;
     for (var i = 1; i < match.length; i += 2) {
-        var charType = getCharType(input[start]);
+        var isUpper = isUpperCase(input[start]);
         var isMatcherUpper = matcher.upperCase[i];
         // capturing groups come in pairs, match and non-match
         boundaries.push(start, start + match[i].length);
         // make sure groups are anchored on a left word boundary
         var prevChar = input[start - 1] || "";
         var nextChar = input[start + 1] || "";
-        if (start !== 0) {
-            if (charType === UNICODE_DIGIT && getCharType(prevChar) === UNICODE_DIGIT) {
+        if (start !== 0 && !/[\W_]/.test(prevChar) && !/[\W_]/.test(input[start])) {
+            if (isUpper && (isLowerCase(prevChar) || isLowerCase(nextChar))) {
+                score -= 0.1;
+            } else if (isMatcherUpper && start === prevEnd) {
+                score -= isUpper ? 0.1 : 1.0;
+            } else {
                 return NO_MATCH;
-            } else if (charType === UNICODE_LETTER && getCharType(prevChar) === UNICODE_LETTER) {
-                var isUpper = isUpperCase(input[start]);
-                if (isUpper && (isLowerCase(prevChar) || isLowerCase(nextChar))) {
-                    score -= 0.1;
-                } else if (isMatcherUpper && start === prevEnd) {
-                    score -= isUpper ? 0.1 : 1.0;
-                } else {
-                    return NO_MATCH;
-                }
             }
         }
         prevEnd = start + match[i].length;
@@ -226,30 +214,15 @@ function findMatch(matcher, input, startOfName, endOfName) {
         boundaries: boundaries
     };
 }
-function isLetter(s) {
-    return /\p{L}/u.test(s);
-}
 function isUpperCase(s) {
-    return /\p{Lu}/u.test(s);
+    return s !== s.toLowerCase();
 }
 function isLowerCase(s) {
-    return /\p{Ll}/u.test(s);
-}
-function isDigit(s) {
-    return /\p{Nd}/u.test(s);
-}
-function getCharType(s) {
-    if (isLetter(s)) {
-        return UNICODE_LETTER;
-    } else if (isDigit(s)) {
-        return UNICODE_DIGIT;
-    } else {
-        return UNICODE_OTHER;
-    }
+    return s !== s.toUpperCase();
 }
 function rateNoise(str) {
     return (str.match(/([.(])/g) || []).length / 5
-         + (str.match(/(\p{Lu}+)/gu) || []).length / 10
+         + (str.match(/([A-Z]+)/g) || []).length / 10
          +  str.length / 20;
 }
 function doSearch(request, response) {
@@ -440,7 +413,7 @@ $(function() {
         var id = hdr.attr("id") || hdr.parent("section").attr("id") || hdr.children("a").attr("id");
         if (id) {
             hdr.append(" <a href='#" + id + "' class='anchor-link' aria-label='" + messages.linkToSection
-                + "'><img src='" + pathtoroot + "resource-files/link.svg' alt='" + messages.linkIcon +"' tabindex='0'"
+                + "'><img src='" + pathtoroot + "link.svg' alt='" + messages.linkIcon +"' tabindex='0'"
                 + " width='16' height='16'></a>");
         }
     });
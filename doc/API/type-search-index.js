@@ -1 +1 @@
-typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"model","l":"Fauna"},{"p":"model","l":"Flora"},{"p":"model","l":"Species"},{"p":"model","l":"SpeciesController"},{"p":"ui","l":"SpeciesExecutable"},{"p":"model","l":"SpeciesType"}];updateSearchResults();
\ No newline at end of file
+typeSearchIndex = [{"l":"All Classes and Interfaces","u":"allclasses-index.html"},{"p":"model","l":"BackpressurePolicy"},{"p":"ui","l":"CatalogBenchmark"},{"p":"model","l":"Fauna"},{"p":"model","l":"Flora"},{"p":"model","l":"ShardedSpeciesController"},{"p":"model","l":"Species"},{"p":"model","l":"SpeciesChangeListener"},{"p":"model","l":"SpeciesChangeLog"},{"p":"model","l":"SpeciesChangeSubscription"},{"p":"model","l":"SpeciesChangeType"},{"p":"model","l":"SpeciesController"},{"p":"ui","l":"SpeciesExecutable"},{"p":"model","l":"SpeciesType"}];updateSearchResults();
\ No newline at end of file
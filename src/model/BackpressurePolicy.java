@@ -0,0 +1,22 @@
+package model;
+
+/**
+ * Enumeration of the strategies a change log can follow when its slowest
+ * subscriber has not yet read the events that a new event would overwrite.
+ */
+public enum BackpressurePolicy {
+	/**
+	 * The new event overwrites the oldest one. Slow subscribers skip the events
+	 * they missed and can see how many were lost.
+	 */
+	OVERWRITE_OLDEST,
+
+	/**
+	 * The new event is discarded so that no subscriber loses events it has not
+	 * read yet. The change it describes is still applied to the catalog, so the
+	 * dropped event is added to the missed events of every subscription. A
+	 * subscriber whose missed count grows must reload the catalog, because the
+	 * stream no longer describes every change.
+	 */
+	DROP_NEWEST
+}
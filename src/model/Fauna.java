@@ -44,6 +44,7 @@ public class Fauna extends Species {
      */
     public void setMigratory(boolean isMigratory) {
         this.isMigratory = isMigratory;
+        notifyAttributeChanged("isMigratory");
     }
 
     /**
@@ -62,6 +63,32 @@ public class Fauna extends Species {
      */
     public void setMaxWeight(double maxWeight) {
         this.maxWeight = maxWeight;
+        notifyAttributeChanged("maxWeight");
+    }
+
+    /**
+     * Creates a copy of this fauna species with a new name and scientific name.
+     * 
+     * @param name           The common name of the copy
+     * @param scientificName The scientific name of the copy
+     * @return The new fauna species
+     */
+    @Override
+    Species copy(String name, String scientificName) {
+        return new Fauna(name, scientificName, getType(), isMigratory, maxWeight);
+    }
+
+    /**
+     * Checks whether another fauna species has the same specific attributes.
+     * 
+     * @param other The fauna species to compare with
+     * @return true if migration and maximum weight are equal
+     */
+    @Override
+    boolean hasSameAttributes(Species other) {
+        Fauna fauna = (Fauna) other;
+        return isMigratory == fauna.isMigratory
+                && Double.compare(maxWeight, fauna.maxWeight) == 0;
     }
 
     /**
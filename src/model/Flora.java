@@ -45,6 +45,7 @@ public class Flora extends Species {
      */
     public void setHasFlowers(boolean hasFlowers) {
         this.hasFlowers = hasFlowers;
+        notifyAttributeChanged("hasFlowers");
     }
 
     /**
@@ -63,6 +64,7 @@ public class Flora extends Species {
      */
     public void setHasFruits(boolean hasFruits) {
         this.hasFruits = hasFruits;
+        notifyAttributeChanged("hasFruits");
     }
 
     /**
@@ -81,6 +83,32 @@ public class Flora extends Species {
      */
     public void setMaxHeight(double maxHeight) {
         this.maxHeight = maxHeight;
+        notifyAttributeChanged("maxHeight");
+    }
+
+    /**
+     * Creates a copy of this flora species with a new name and scientific name.
+     * 
+     * @param name           The common name of the copy
+     * @param scientificName The scientific name of the copy
+     * @return The new flora species
+     */
+    @Override
+    Species copy(String name, String scientificName) {
+        return new Flora(name, scientificName, getType(), hasFlowers, hasFruits, maxHeight);
+    }
+
+    /**
+     * Checks whether another flora species has the same specific attributes.
+     * 
+     * @param other The flora species to compare with
+     * @return true if flowers, fruits and maximum height are equal
+     */
+    @Override
+    boolean hasSameAttributes(Species other) {
+        Flora flora = (Flora) other;
+        return hasFlowers == flora.hasFlowers && hasFruits == flora.hasFruits
+                && Double.compare(maxHeight, flora.maxHeight) == 0;
     }
 
     /**
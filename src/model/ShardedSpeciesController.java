@@ -0,0 +1,432 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Controller class for a species catalog split across several partitions.
+ * Species are assigned to a partition by the hash of their scientific name.
+ * Each partition is a regular SpeciesController that is only ever accessed from
+ * its own single-threaded executor, so partitions never need to be locked.
+ * Lookups are routed to one partition, while listings, searches and counts are
+ * sent to every partition and their results are merged.
+ * The partition threads keep running until the controller is closed, so it
+ * should be used in a try-with-resources block or shut down explicitly.
+ */
+public class ShardedSpeciesController implements AutoCloseable {
+	private static final int MOVE_DONE = 0;
+	private static final int MOVE_LOST = 1;
+	private static final int MOVE_CHANGED = 2;
+
+	private SpeciesController[] partitions;
+	private ExecutorService[] executors;
+
+	/**
+	 * Creates a new sharded controller with empty partitions whose change logs
+	 * use the default capacity and overwrite the oldest events when full.
+	 *
+	 * @param shardCount The number of partitions to split the catalog into
+	 */
+	public ShardedSpeciesController(int shardCount) {
+		this(shardCount, SpeciesChangeLog.DEFAULT_CAPACITY, BackpressurePolicy.OVERWRITE_OLDEST);
+	}
+
+	/**
+	 * Creates a new sharded controller with empty partitions. Each partition gets
+	 * its own change log with the given capacity and policy.
+	 *
+	 * @param shardCount  The number of partitions to split the catalog into
+	 * @param logCapacity The number of events each change log keeps, must be a
+	 *                    power of two
+	 * @param policy      What the change logs do when a subscriber falls a full
+	 *                    log behind
+	 */
+	public ShardedSpeciesController(int shardCount, int logCapacity, BackpressurePolicy policy) {
+		if (shardCount < 1) {
+			throw new IllegalArgumentException("The number of shards must be at least 1");
+		}
+		this.partitions = new SpeciesController[shardCount];
+		this.executors = new ExecutorService[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			partitions[i] = new SpeciesController(logCapacity, policy);
+			executors[i] = Executors.newSingleThreadExecutor();
+		}
+	}
+
+	/**
+	 * Gets the number of partitions of the catalog.
+	 *
+	 * @return The number of partitions
+	 */
+	public int getShardCount() {
+		return partitions.length;
+	}
+
+	/**
+	 * Gets the change log of a partition. Each partition publishes its own
+	 * ordered stream of changes.
+	 *
+	 * @param shard The index of the partition
+	 * @return The change log of that partition
+	 */
+	public SpeciesChangeLog getChangeLog(int shard) {
+		return partitions[shard].getChangeLog();
+	}
+
+	/**
+	 * Registers a new flora species in the partition that owns its scientific
+	 * name.
+	 *
+	 * @param name           The common name of the flora species
+	 * @param scientificName The scientific name in binomial nomenclature
+	 * @param hasFlowers     Whether the plant produces flowers
+	 * @param hasFruits      Whether the plant produces fruits
+	 * @param maxHeight      The maximum height the plant can reach in meters
+	 * @return true if the registration was successful, false if the partition is
+	 *         full
+	 */
+	public boolean registerFlora(String name, String scientificName,
+			SpeciesType type, boolean hasFlowers,
+			boolean hasFruits, double maxHeight) {
+		int shard = shardFor(scientificName);
+		return await(executors[shard].submit(() -> partitions[shard].registerFlora(name,
+				scientificName, type, hasFlowers, hasFruits, maxHeight)));
+	}
+
+	/**
+	 * Registers a new fauna species in the partition that owns its scientific
+	 * name.
+	 *
+	 * @param name           The common name of the fauna species
+	 * @param scientificName The scientific name in binomial nomenclature
+	 * @param isMigratory    Whether the animal is migratory
+	 * @param maxWeight      The maximum weight the animal can reach in kilograms
+	 * @return true if the registration was successful, false if the partition is
+	 *         full
+	 */
+	public boolean registerFauna(String name, String scientificName,
+			SpeciesType type, boolean isMigratory,
+			double maxWeight) {
+		int shard = shardFor(scientificName);
+		return await(executors[shard].submit(() -> partitions[shard].registerFauna(name,
+				scientificName, type, isMigratory, maxWeight)));
+	}
+
+	/**
+	 * Edits the basic information of an existing species.
+	 * If the new scientific name belongs to another partition, the species is
+	 * moved to that partition. The edited copy is added to the destination
+	 * before the original is deleted from the source, so during the move other
+	 * threads may briefly see both but never neither. If the original is updated
+	 * while it is being moved, the move starts again from its new state.
+	 *
+	 * @param scientificName    The current scientific name of the species
+	 * @param newName           The new common name
+	 * @param newScientificName The new scientific name
+	 * @return true if the edit was successful, false if the species was not found
+	 *         or the destination partition is full
+	 */
+	public boolean editSpecies(String scientificName, String newName, String newScientificName) {
+		int source = shardFor(scientificName);
+		int destination = shardFor(newScientificName);
+
+		if (source == destination) {
+			return await(executors[source].submit(() -> {
+				SpeciesController partition = partitions[source];
+				return partition.editSpecies(partition.findSpeciesIndex(scientificName),
+						newName, newScientificName);
+			}));
+		}
+
+		int outcome = MOVE_CHANGED;
+		while (outcome == MOVE_CHANGED) {
+			outcome = moveSpecies(source, destination, scientificName, newName, newScientificName);
+		}
+		return outcome == MOVE_DONE;
+	}
+
+	/**
+	 * Makes one attempt at moving a species to another partition with a new name
+	 * and scientific name.
+	 *
+	 * @param source            The partition that holds the species
+	 * @param destination       The partition that owns the new scientific name
+	 * @param scientificName    The current scientific name of the species
+	 * @param newName           The new common name
+	 * @param newScientificName The new scientific name
+	 * @return MOVE_DONE if the species was moved, MOVE_LOST if it was not found
+	 *         or the destination is full, or MOVE_CHANGED if it was updated during
+	 *         the attempt and nothing was moved
+	 */
+	private int moveSpecies(int source, int destination, String scientificName,
+			String newName, String newScientificName) {
+		// The original, a snapshot of it and its edited copy are read on the source thread
+		Species[] found = await(executors[source].submit(() -> {
+			SpeciesController partition = partitions[source];
+			Species original = partition.getSpecies(partition.findSpeciesIndex(scientificName));
+			if (original == null) {
+				return null;
+			}
+			return new Species[] { original,
+					original.copy(original.getName(), original.getScientificName()),
+					original.copy(newName, newScientificName) };
+		}));
+		if (found == null) {
+			return MOVE_LOST;
+		}
+		Species original = found[0];
+		Species snapshot = found[1];
+		Species edited = found[2];
+
+		if (!await(executors[destination].submit(() -> partitions[destination].addSpecies(edited)))) {
+			return MOVE_LOST;
+		}
+
+		int outcome = await(executors[source].submit(() -> {
+			SpeciesController partition = partitions[source];
+			int index = partition.indexOf(original);
+			if (index < 0) {
+				return MOVE_LOST;
+			}
+			if (!original.hasSameInfo(snapshot)) {
+				return MOVE_CHANGED;
+			}
+			partition.deleteSpecies(index);
+			return MOVE_DONE;
+		}));
+		if (outcome != MOVE_DONE) {
+			// The copy is stale or its original is gone, so it must not stay
+			await(executors[destination].submit(() -> {
+				SpeciesController partition = partitions[destination];
+				return partition.deleteSpecies(partition.indexOf(edited));
+			}));
+		}
+		return outcome;
+	}
+
+	/**
+	 * Edits the specific attributes of an existing flora species on the thread
+	 * of its partition.
+	 *
+	 * @param scientificName The scientific name of the species
+	 * @param hasFlowers     Whether the plant produces flowers
+	 * @param hasFruits      Whether the plant produces fruits
+	 * @param maxHeight      The maximum height the plant can reach in meters
+	 * @return true if the edit was successful, false if the species was not found
+	 *         or is not flora
+	 */
+	public boolean editFloraAttributes(String scientificName, boolean hasFlowers,
+			boolean hasFruits, double maxHeight) {
+		int shard = shardFor(scientificName);
+		return await(executors[shard].submit(() -> {
+			SpeciesController partition = partitions[shard];
+			return partition.editFloraAttributes(partition.findSpeciesIndex(scientificName),
+					hasFlowers, hasFruits, maxHeight);
+		}));
+	}
+
+	/**
+	 * Edits the specific attributes of an existing fauna species on the thread
+	 * of its partition.
+	 *
+	 * @param scientificName The scientific name of the species
+	 * @param isMigratory    Whether the animal is migratory
+	 * @param maxWeight      The maximum weight the animal can reach in kilograms
+	 * @return true if the edit was successful, false if the species was not found
+	 *         or is not fauna
+	 */
+	public boolean editFaunaAttributes(String scientificName, boolean isMigratory,
+			double maxWeight) {
+		int shard = shardFor(scientificName);
+		return await(executors[shard].submit(() -> {
+			SpeciesController partition = partitions[shard];
+			return partition.editFaunaAttributes(partition.findSpeciesIndex(scientificName),
+					isMigratory, maxWeight);
+		}));
+	}
+
+	/**
+	 * Deletes a species from the catalog.
+	 *
+	 * @param scientificName The scientific name of the species to delete
+	 * @return true if the deletion was successful, false if the species was not
+	 *         found
+	 */
+	public boolean deleteSpecies(String scientificName) {
+		int shard = shardFor(scientificName);
+		return await(executors[shard].submit(() -> {
+			SpeciesController partition = partitions[shard];
+			return partition.deleteSpecies(partition.findSpeciesIndex(scientificName));
+		}));
+	}
+
+	/**
+	 * Gets detailed information about a specific species.
+	 *
+	 * @param scientificName The scientific name of the species
+	 * @return A formatted string with all species information, or an error message
+	 *         if the species was not found
+	 */
+	public String getSpeciesInfo(String scientificName) {
+		int shard = shardFor(scientificName);
+		return await(executors[shard].submit(() -> {
+			SpeciesController partition = partitions[shard];
+			return partition.getSpeciesInfo(partition.findSpeciesIndex(scientificName));
+		}));
+	}
+
+	/**
+	 * Gets a list of all species in the catalog, gathered from every partition.
+	 *
+	 * @return A formatted string containing all species names with their
+	 *         positions, or an empty string if the catalog is empty
+	 */
+	public String showSpeciesList() {
+		return formatNames(gatherNames(null));
+	}
+
+	/**
+	 * Searches every partition for species whose common name contains the given
+	 * text, ignoring case.
+	 *
+	 * @param text The text to look for in the common names
+	 * @return A formatted string containing the matching species names, or an
+	 *         empty string if no species matches
+	 */
+	public String searchSpecies(String text) {
+		return formatNames(gatherNames(text.toLowerCase()));
+	}
+
+	/**
+	 * Counts all species registered across every partition.
+	 *
+	 * @return The total number of registered species
+	 */
+	public int getSpeciesCount() {
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < partitions.length; i++) {
+			SpeciesController partition = partitions[i];
+			results.add(executors[i].submit(() -> partition.getSpeciesCount()));
+		}
+
+		int total = 0;
+		for (Future<Integer> result : results) {
+			total += await(result);
+		}
+		return total;
+	}
+
+	/**
+	 * Counts the species of the given type across every partition.
+	 *
+	 * @param type The species type to count
+	 * @return The total number of species of that type
+	 */
+	public int countSpeciesByType(SpeciesType type) {
+		List<Future<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < partitions.length; i++) {
+			SpeciesController partition = partitions[i];
+			results.add(executors[i].submit(() -> partition.countSpeciesByType(type)));
+		}
+
+		int total = 0;
+		for (Future<Integer> result : results) {
+			total += await(result);
+		}
+		return total;
+	}
+
+	/**
+	 * Stops the executors of every partition.
+	 * The controller must not be used after calling this method.
+	 */
+	public void shutdown() {
+		for (ExecutorService executor : executors) {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Stops the executors of every partition, same as shutdown.
+	 */
+	@Override
+	public void close() {
+		shutdown();
+	}
+
+	/**
+	 * Picks the partition that owns a scientific name. A null name goes to the
+	 * first partition, as registering a species does not require one.
+	 *
+	 * @param scientificName The scientific name of the species
+	 * @return The index of the partition
+	 */
+	private int shardFor(String scientificName) {
+		return Math.floorMod(Objects.hashCode(scientificName), partitions.length);
+	}
+
+	/**
+	 * Collects the common names from every partition, in partition order.
+	 *
+	 * @param filter Lowercase text the names must contain, or null to collect all
+	 * @return The collected names
+	 */
+	private List<String> gatherNames(String filter) {
+		List<Future<List<String>>> results = new ArrayList<>();
+		for (int i = 0; i < partitions.length; i++) {
+			SpeciesController partition = partitions[i];
+			results.add(executors[i].submit(() -> {
+				List<String> names = new ArrayList<>();
+				for (int j = 0; j < partition.getSpeciesCount(); j++) {
+					String name = partition.getSpeciesName(j);
+					if (filter == null || name.toLowerCase().contains(filter)) {
+						names.add(name);
+					}
+				}
+				return names;
+			}));
+		}
+
+		List<String> names = new ArrayList<>();
+		for (Future<List<String>> result : results) {
+			names.addAll(await(result));
+		}
+		return names;
+	}
+
+	/**
+	 * Formats a list of names the same way SpeciesController does.
+	 *
+	 * @param names The names to format
+	 * @return The numbered list, or an empty string if there are no names
+	 */
+	private String formatNames(List<String> names) {
+		StringBuilder msg = new StringBuilder();
+		for (int i = 0; i < names.size(); i++) {
+			msg.append("\n").append(i + 1).append(". ").append(names.get(i));
+		}
+		return msg.toString();
+	}
+
+	/**
+	 * Waits for a task sent to a partition and returns its result.
+	 *
+	 * @param result The pending result of the task
+	 * @return The value computed by the task
+	 */
+	private <T> T await(Future<T> result) {
+		try {
+			return result.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for a partition", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("A partition failed: " + e.getCause().getMessage(), e.getCause());
+		}
+	}
+}
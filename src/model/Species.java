@@ -1,15 +1,22 @@
 package model;
 
+import java.util.Objects;
+
 /**
  * Abstract class representing a species in the Icesi University biodiversity
  * catalog.
  * This class serves as the base for both flora and fauna species.
+ * Once a species is registered, its setters publish to the catalog's change
+ * log, which accepts a single publishing thread. Registered species must
+ * therefore only be modified through their SpeciesController, never from
+ * another thread.
  */
 public abstract class Species {
 
 	private String name;
 	private String scientificName;
 	private SpeciesType type;
+	private SpeciesChangeLog changeLog;
 
 	/**
 	 * Creates a new species with the specified name and scientific name.
@@ -76,4 +83,61 @@ public abstract class Species {
 	}
 
 	public abstract String getSpeciesInfo();
+
+	/**
+	 * Creates a copy of this species with a new name and scientific name.
+	 * The copy does not belong to any catalog.
+	 * 
+	 * @param name           The common name of the copy
+	 * @param scientificName The scientific name of the copy
+	 * @return The new species
+	 */
+	abstract Species copy(String name, String scientificName);
+
+	/**
+	 * Checks whether another species holds exactly the same information as this
+	 * one.
+	 * 
+	 * @param other The species to compare with
+	 * @return true if both species have the same class and the same values
+	 */
+	boolean hasSameInfo(Species other) {
+		return getClass() == other.getClass()
+				&& Objects.equals(name, other.name)
+				&& Objects.equals(scientificName, other.scientificName)
+				&& type == other.type
+				&& hasSameAttributes(other);
+	}
+
+	/**
+	 * Checks whether another species of the same class has the same specific
+	 * attributes as this one.
+	 * 
+	 * @param other The species to compare with, of the same class as this one
+	 * @return true if all the specific attributes are equal
+	 */
+	abstract boolean hasSameAttributes(Species other);
+
+	/**
+	 * Attaches the change log of the catalog that holds this species.
+	 * 
+	 * @param changeLog The log to publish attribute changes to, or null to stop
+	 *                  publishing them
+	 */
+	void setChangeLog(SpeciesChangeLog changeLog) {
+		this.changeLog = changeLog;
+	}
+
+	/**
+	 * Publishes an attribute change to the catalog's change log, if the species
+	 * belongs to a catalog. Must only be called from the thread that uses the
+	 * catalog's controller.
+	 * 
+	 * @param attribute The name of the attribute that changed
+	 */
+	protected void notifyAttributeChanged(String attribute) {
+		if (changeLog != null) {
+			changeLog.publish(SpeciesChangeType.ATTRIBUTE_CHANGED, scientificName, attribute);
+		}
+	}
 }
\ No newline at end of file
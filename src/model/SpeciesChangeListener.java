@@ -0,0 +1,22 @@
+package model;
+
+/**
+ * Receives the events read from a species change log.
+ * Events are passed as separate values so that no event object has to be
+ * created for each change.
+ */
+public interface SpeciesChangeListener {
+
+	/**
+	 * Handles a single change event.
+	 * 
+	 * @param sequence       The position of the event in the change log
+	 * @param type           The kind of change
+	 * @param scientificName The scientific name of the species after the change
+	 * @param detail         The previous scientific name for EDITED events, the
+	 *                       attribute name for ATTRIBUTE_CHANGED events, or null
+	 * @param endOfBatch     true if this is the last event of the current batch
+	 */
+	void onChange(long sequence, SpeciesChangeType type, String scientificName,
+			String detail, boolean endOfBatch);
+}
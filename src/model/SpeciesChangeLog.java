@@ -0,0 +1,249 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Ordered log of the changes made to a species catalog.
+ * Events are stored in a fixed size ring buffer that is allocated once, so
+ * publishing an event does not create any objects and does not take any lock.
+ * Only one thread may publish to a log, which is the thread that uses its
+ * SpeciesController. Any number of subscribers can read the log from other
+ * threads, each one at its own pace.
+ */
+public class SpeciesChangeLog {
+	static final int DEFAULT_CAPACITY = 1024;
+
+	private final int capacity;
+	private final int mask;
+	private final BackpressurePolicy policy;
+	private final AtomicLongArray slotSequences;
+	private final AtomicReferenceArray<SpeciesChangeType> types;
+	private final AtomicReferenceArray<String> scientificNames;
+	private final AtomicReferenceArray<String> details;
+	private final AtomicLong nextSequence;
+	private final AtomicLong droppedEvents;
+	private volatile SpeciesChangeSubscription[] subscriptions;
+
+	/**
+	 * Creates a new empty change log. Logs are only created by SpeciesController,
+	 * which is the single publisher of its own log.
+	 *
+	 * @param capacity The number of events the log keeps, must be a power of two
+	 * @param policy   What to do when a subscriber falls a full log behind
+	 */
+	SpeciesChangeLog(int capacity, BackpressurePolicy policy) {
+		if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+			throw new IllegalArgumentException("The capacity must be a power of two");
+		}
+		if (policy == null) {
+			throw new IllegalArgumentException("A backpressure policy is required");
+		}
+		this.capacity = capacity;
+		this.mask = capacity - 1;
+		this.policy = policy;
+		this.slotSequences = new AtomicLongArray(capacity);
+		this.types = new AtomicReferenceArray<>(capacity);
+		this.scientificNames = new AtomicReferenceArray<>(capacity);
+		this.details = new AtomicReferenceArray<>(capacity);
+		this.nextSequence = new AtomicLong();
+		this.droppedEvents = new AtomicLong();
+		this.subscriptions = new SpeciesChangeSubscription[0];
+		for (int i = 0; i < capacity; i++) {
+			slotSequences.set(i, -1);
+		}
+	}
+
+	/**
+	 * Gets the number of events the log keeps.
+	 *
+	 * @return The capacity of the log
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Gets the policy followed when a subscriber falls a full log behind.
+	 *
+	 * @return The backpressure policy of the log
+	 */
+	public BackpressurePolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * Gets the sequence number that the next published event will have.
+	 *
+	 * @return The next sequence number
+	 */
+	public long getNextSequence() {
+		return nextSequence.get();
+	}
+
+	/**
+	 * Gets how many events were discarded by the DROP_NEWEST policy. Each of
+	 * them is also counted by the missed events of every subscription that was
+	 * open when it was dropped.
+	 *
+	 * @return The number of dropped events
+	 */
+	public long getDroppedEvents() {
+		return droppedEvents.get();
+	}
+
+	/**
+	 * Subscribes to the events published from now on.
+	 *
+	 * @return The new subscription
+	 */
+	public SpeciesChangeSubscription subscribe() {
+		return subscribe(nextSequence.get());
+	}
+
+	/**
+	 * Subscribes to the log starting at the given sequence number, so a
+	 * subscriber can resume where it stopped. If those events are no longer in
+	 * the log, the subscription starts at the oldest event still kept.
+	 * The publisher does not wait for this method, and the one publish already
+	 * in progress when the subscription is added may not see it. That publish
+	 * can overwrite the oldest event kept, so a subscription whose start falls
+	 * on it starts one event later instead, counting the skipped events by
+	 * getMissedEvents. Every later publish sees the subscription.
+	 *
+	 * @param fromSequence The sequence number of the first event to read
+	 * @return The new subscription
+	 */
+	public synchronized SpeciesChangeSubscription subscribe(long fromSequence) {
+		long next = nextSequence.get();
+		if (fromSequence < 0 || fromSequence > next) {
+			throw new IllegalArgumentException("Invalid sequence number: " + fromSequence);
+		}
+		long oldest = Math.max(0, next - capacity);
+		SpeciesChangeSubscription subscription = new SpeciesChangeSubscription(this,
+				Math.max(fromSequence, oldest), Math.max(0, oldest - fromSequence));
+
+		SpeciesChangeSubscription[] current = subscriptions;
+		SpeciesChangeSubscription[] updated = new SpeciesChangeSubscription[current.length + 1];
+		System.arraycopy(current, 0, updated, 0, current.length);
+		updated[current.length] = subscription;
+		subscriptions = updated;
+
+		// The publish in progress may not have seen the subscription and can still
+		// overwrite the oldest event kept, so start past it. Publishing advances
+		// nextSequence with a volatile write, so every later publish sees the
+		// subscription written above.
+		long safeStart = nextSequence.get() - capacity + 1;
+		if (subscription.getSequence() < safeStart) {
+			subscription.addMissedEvents(safeStart - subscription.getSequence());
+			subscription.setSequence(safeStart);
+		}
+		return subscription;
+	}
+
+	/**
+	 * Removes a subscription so it no longer holds back the DROP_NEWEST policy.
+	 *
+	 * @param subscription The subscription to remove
+	 */
+	synchronized void unsubscribe(SpeciesChangeSubscription subscription) {
+		SpeciesChangeSubscription[] current = subscriptions;
+		for (int i = 0; i < current.length; i++) {
+			if (current[i] == subscription) {
+				SpeciesChangeSubscription[] updated = new SpeciesChangeSubscription[current.length - 1];
+				System.arraycopy(current, 0, updated, 0, i);
+				System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+				subscriptions = updated;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Adds a new event at the end of the log.
+	 * Must only be called from the thread that owns the log.
+	 *
+	 * @param type           The kind of change
+	 * @param scientificName The scientific name of the species after the change
+	 * @param detail         Extra information about the change, or null
+	 * @return true if the event was published, false if it was dropped
+	 */
+	boolean publish(SpeciesChangeType type, String scientificName, String detail) {
+		long sequence = nextSequence.get();
+		if (policy == BackpressurePolicy.DROP_NEWEST && sequence - slowestPosition() >= capacity) {
+			// The event never enters the log, so every subscriber misses it
+			droppedEvents.incrementAndGet();
+			SpeciesChangeSubscription[] current = subscriptions;
+			for (int i = 0; i < current.length; i++) {
+				current[i].addMissedEvents(1);
+			}
+			return false;
+		}
+
+		// Mark the slot as being written so readers can tell a torn event apart
+		int slot = (int) (sequence & mask);
+		slotSequences.set(slot, -1);
+		types.lazySet(slot, type);
+		scientificNames.lazySet(slot, scientificName);
+		details.lazySet(slot, detail);
+		slotSequences.lazySet(slot, sequence);
+		// A volatile write, so the next read of the subscriptions cannot move before it
+		nextSequence.set(sequence + 1);
+		return true;
+	}
+
+	/**
+	 * Delivers the next batch of events of a subscription to a listener.
+	 *
+	 * @param subscription The subscription that is reading
+	 * @param listener     The listener that receives the events
+	 * @param maxBatch     The maximum number of events to deliver
+	 * @return The number of events delivered
+	 */
+	int poll(SpeciesChangeSubscription subscription, SpeciesChangeListener listener, int maxBatch) {
+		long position = subscription.getSequence();
+		long end = Math.min(nextSequence.get(), position + maxBatch);
+		int delivered = 0;
+
+		while (position < end) {
+			int slot = (int) (position & mask);
+			long before = slotSequences.get(slot);
+			SpeciesChangeType type = types.get(slot);
+			String scientificName = scientificNames.get(slot);
+			String detail = details.get(slot);
+			long after = slotSequences.get(slot);
+
+			if (before != position || after != position) {
+				// The publisher has lapped this subscriber, skip to the oldest event kept
+				long oldest = nextSequence.get() - capacity;
+				subscription.addMissedEvents(oldest - position);
+				position = oldest;
+				end = Math.min(nextSequence.get(), position + maxBatch - delivered);
+				continue;
+			}
+
+			listener.onChange(position, type, scientificName, detail, position + 1 == end);
+			position++;
+			delivered++;
+		}
+
+		subscription.setSequence(position);
+		return delivered;
+	}
+
+	/**
+	 * Finds the position of the subscriber that is furthest behind.
+	 *
+	 * @return The lowest sequence still to be read, or the next sequence if there
+	 *         are no subscribers
+	 */
+	private long slowestPosition() {
+		long slowest = nextSequence.get();
+		SpeciesChangeSubscription[] current = subscriptions;
+		for (int i = 0; i < current.length; i++) {
+			slowest = Math.min(slowest, current[i].getSequence());
+		}
+		return slowest;
+	}
+}
@@ -0,0 +1,88 @@
+package model;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A reader of a species change log.
+ * Each subscription keeps its own position in the log and must be polled from a
+ * single thread.
+ */
+public class SpeciesChangeSubscription {
+	private final SpeciesChangeLog changeLog;
+	private final AtomicLong sequence;
+	private final AtomicLong missedEvents;
+
+	/**
+	 * Creates a new subscription positioned at the given sequence number.
+	 *
+	 * @param changeLog    The log being read
+	 * @param sequence     The sequence number of the first event to read
+	 * @param missedEvents The number of requested events no longer in the log
+	 */
+	SpeciesChangeSubscription(SpeciesChangeLog changeLog, long sequence, long missedEvents) {
+		this.changeLog = changeLog;
+		this.sequence = new AtomicLong(sequence);
+		this.missedEvents = new AtomicLong(missedEvents);
+	}
+
+	/**
+	 * Delivers the pending events to a listener, up to the given batch size.
+	 *
+	 * @param listener The listener that receives the events
+	 * @param maxBatch The maximum number of events to deliver
+	 * @return The number of events delivered, 0 if there were no new events
+	 */
+	public int poll(SpeciesChangeListener listener, int maxBatch) {
+		if (maxBatch < 1) {
+			throw new IllegalArgumentException("The batch size must be at least 1");
+		}
+		return changeLog.poll(this, listener, maxBatch);
+	}
+
+	/**
+	 * Gets the sequence number of the next event this subscription will read.
+	 * It can be stored and passed to SpeciesChangeLog.subscribe to resume later.
+	 *
+	 * @return The next sequence number to read
+	 */
+	public long getSequence() {
+		return sequence.get();
+	}
+
+	/**
+	 * Gets how many events this subscription will never receive: events
+	 * overwritten before it read them, and events dropped by the DROP_NEWEST
+	 * policy while it was open. If this count grows, the events read no longer
+	 * describe every change and the subscriber must reload the catalog.
+	 *
+	 * @return The number of missed events
+	 */
+	public long getMissedEvents() {
+		return missedEvents.get();
+	}
+
+	/**
+	 * Stops this subscription. It must not be polled afterwards.
+	 */
+	public void close() {
+		changeLog.unsubscribe(this);
+	}
+
+	/**
+	 * Moves this subscription to a new position after a poll.
+	 *
+	 * @param sequence The next sequence number to read
+	 */
+	void setSequence(long sequence) {
+		this.sequence.lazySet(sequence);
+	}
+
+	/**
+	 * Records events that were overwritten before they could be read.
+	 *
+	 * @param count The number of events missed
+	 */
+	void addMissedEvents(long count) {
+		missedEvents.addAndGet(count);
+	}
+}
@@ -0,0 +1,27 @@
+package model;
+
+/**
+ * Enumeration of the kinds of changes that the species catalog publishes to
+ * its change log.
+ */
+public enum SpeciesChangeType {
+	/**
+	 * A species was added to the catalog
+	 */
+	REGISTERED,
+
+	/**
+	 * The name or scientific name of a species was edited
+	 */
+	EDITED,
+
+	/**
+	 * A species was removed from the catalog
+	 */
+	DELETED,
+
+	/**
+	 * A flora or fauna specific attribute of a species was updated
+	 */
+	ATTRIBUTE_CHANGED
+}
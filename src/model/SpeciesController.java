@@ -1,5 +1,7 @@
 package model;
 
+import java.util.Objects;
+
 /**
  * Controller class for managing the species catalog.
  * Handles all CRUD operations for both flora and fauna species.
@@ -7,6 +9,7 @@ package model;
 public class SpeciesController {
 	private Species[] speciesList;
 	private int speciesCount;
+	private SpeciesChangeLog changeLog;
 	private static final int MAX_SPECIES = 80;
 
 	/**
@@ -14,8 +17,31 @@ public class SpeciesController {
 	 * Initializes the species array with the maximum capacity.
 	 */
 	public SpeciesController() {
+		this(SpeciesChangeLog.DEFAULT_CAPACITY, BackpressurePolicy.OVERWRITE_OLDEST);
+	}
+
+	/**
+	 * Creates a new species controller with an empty catalog and its own change
+	 * log. The log is never shared, so this controller is its only publisher.
+	 * 
+	 * @param logCapacity The number of events the change log keeps, must be a
+	 *                    power of two
+	 * @param policy      What the change log does when a subscriber falls a full
+	 *                    log behind
+	 */
+	public SpeciesController(int logCapacity, BackpressurePolicy policy) {
 		this.speciesList = new Species[MAX_SPECIES];
 		this.speciesCount = 0;
+		this.changeLog = new SpeciesChangeLog(logCapacity, policy);
+	}
+
+	/**
+	 * Gets the log where this catalog publishes its changes.
+	 * 
+	 * @return The change log of the catalog
+	 */
+	public SpeciesChangeLog getChangeLog() {
+		return changeLog;
 	}
 
 	/**
@@ -35,7 +61,9 @@ public class SpeciesController {
 			try {
 				speciesList[speciesCount] = new Flora(name, scientificName, type,
 						hasFlowers, hasFruits, maxHeight);
+				speciesList[speciesCount].setChangeLog(changeLog);
 				speciesCount++;
+				changeLog.publish(SpeciesChangeType.REGISTERED, scientificName, null);
 				return true;
 			} catch (IllegalArgumentException e) {
 				System.out.println("Error: " + e.getMessage());
@@ -61,7 +89,9 @@ public class SpeciesController {
 			try {
 				speciesList[speciesCount] = new Fauna(name, scientificName, type,
 						isMigratory, maxWeight);
+				speciesList[speciesCount].setChangeLog(changeLog);
 				speciesCount++;
+				changeLog.publish(SpeciesChangeType.REGISTERED, scientificName, null);
 				return true;
 			} catch (IllegalArgumentException e) {
 				System.out.println("Error: " + e.getMessage());
@@ -81,8 +111,65 @@ public class SpeciesController {
 	 */
 	public boolean editSpecies(int index, String name, String scientificName) {
 		if (index >= 0 && index < speciesCount) {
+			String previousScientificName = speciesList[index].getScientificName();
 			speciesList[index].setName(name);
 			speciesList[index].setScientificName(scientificName);
+			changeLog.publish(SpeciesChangeType.EDITED, scientificName, previousScientificName);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Edits the specific attributes of an existing flora species.
+	 * Only the attributes whose value changes are updated, and each of them
+	 * publishes an ATTRIBUTE_CHANGED event.
+	 * 
+	 * @param index      The index of the species to edit
+	 * @param hasFlowers Whether the plant produces flowers
+	 * @param hasFruits  Whether the plant produces fruits
+	 * @param maxHeight  The maximum height the plant can reach in meters
+	 * @return true if the edit was successful, false if the index is invalid or
+	 *         the species is not flora
+	 */
+	public boolean editFloraAttributes(int index, boolean hasFlowers,
+			boolean hasFruits, double maxHeight) {
+		if (index >= 0 && index < speciesCount && speciesList[index] instanceof Flora) {
+			Flora flora = (Flora) speciesList[index];
+			if (flora.isHasFlowers() != hasFlowers) {
+				flora.setHasFlowers(hasFlowers);
+			}
+			if (flora.isHasFruits() != hasFruits) {
+				flora.setHasFruits(hasFruits);
+			}
+			if (Double.compare(flora.getMaxHeight(), maxHeight) != 0) {
+				flora.setMaxHeight(maxHeight);
+			}
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Edits the specific attributes of an existing fauna species.
+	 * Only the attributes whose value changes are updated, and each of them
+	 * publishes an ATTRIBUTE_CHANGED event.
+	 * 
+	 * @param index       The index of the species to edit
+	 * @param isMigratory Whether the animal is migratory
+	 * @param maxWeight   The maximum weight the animal can reach in kilograms
+	 * @return true if the edit was successful, false if the index is invalid or
+	 *         the species is not fauna
+	 */
+	public boolean editFaunaAttributes(int index, boolean isMigratory, double maxWeight) {
+		if (index >= 0 && index < speciesCount && speciesList[index] instanceof Fauna) {
+			Fauna fauna = (Fauna) speciesList[index];
+			if (fauna.isMigratory() != isMigratory) {
+				fauna.setMigratory(isMigratory);
+			}
+			if (Double.compare(fauna.getMaxWeight(), maxWeight) != 0) {
+				fauna.setMaxWeight(maxWeight);
+			}
 			return true;
 		}
 		return false;
@@ -96,11 +183,14 @@ public class SpeciesController {
 	 */
 	public boolean deleteSpecies(int index) {
 		if (index >= 0 && index < speciesCount) {
+			Species deleted = speciesList[index];
+			deleted.setChangeLog(null);
 			for (int i = index; i < speciesCount - 1; i++) {
 				speciesList[i] = speciesList[i + 1];
 			}
 			speciesList[speciesCount - 1] = null;
 			speciesCount--;
+			changeLog.publish(SpeciesChangeType.DELETED, deleted.getScientificName(), null);
 			return true;
 		}
 		return false;
@@ -152,6 +242,108 @@ public class SpeciesController {
 		return null;
 	}
 
+	/**
+	 * Gets the number of species currently registered in the catalog.
+	 * 
+	 * @return The number of registered species
+	 */
+	public int getSpeciesCount() {
+		return speciesCount;
+	}
+
+	/**
+	 * Searches for a species by its scientific name.
+	 * 
+	 * @param scientificName The scientific name to look for
+	 * @return The index of the first species with that scientific name, or -1 if
+	 *         it is not registered
+	 */
+	public int findSpeciesIndex(String scientificName) {
+		for (int i = 0; i < speciesCount; i++) {
+			if (Objects.equals(speciesList[i].getScientificName(), scientificName)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Counts how many registered species belong to the given type.
+	 * 
+	 * @param type The species type to count
+	 * @return The number of species of that type
+	 */
+	public int countSpeciesByType(SpeciesType type) {
+		int count = 0;
+		for (int i = 0; i < speciesCount; i++) {
+			if (speciesList[i].getType() == type) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Gets the species stored at the specified index.
+	 * Used by the sharded catalog to move species between partitions.
+	 * 
+	 * @param index The index of the species
+	 * @return The species, or null if the index is invalid
+	 */
+	Species getSpecies(int index) {
+		if (index >= 0 && index < speciesCount) {
+			return speciesList[index];
+		}
+		return null;
+	}
+
+	/**
+	 * Searches for a specific species object in the catalog.
+	 * Used by the sharded catalog to move species between partitions.
+	 * 
+	 * @param species The species to look for
+	 * @return The index of the species, or -1 if it is not in the catalog
+	 */
+	int indexOf(Species species) {
+		for (int i = 0; i < speciesCount; i++) {
+			if (speciesList[i] == species) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Adds an already created species at the end of the catalog.
+	 * Used by the sharded catalog to move species between partitions.
+	 * 
+	 * @param species The species to add
+	 * @return true if the species was added, false if the catalog is full
+	 */
+	boolean addSpecies(Species species) {
+		if (speciesCount < MAX_SPECIES) {
+			speciesList[speciesCount] = species;
+			species.setChangeLog(changeLog);
+			speciesCount++;
+			changeLog.publish(SpeciesChangeType.REGISTERED, species.getScientificName(), null);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the type of a species at the specified index.
+	 * 
+	 * @param index The index of the species
+	 * @return The type of the species, or null if the index is invalid
+	 */
+	public SpeciesType getSpeciesType(int index) {
+		if (index >= 0 && index < speciesCount && speciesList[index] != null) {
+			return speciesList[index].getType();
+		}
+		return null;
+	}
+
 	/**
 	 * Gets the name of a species at the specified index.
 	 * 
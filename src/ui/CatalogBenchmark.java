@@ -0,0 +1,212 @@
+package ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import model.BackpressurePolicy;
+import model.ShardedSpeciesController;
+import model.SpeciesChangeListener;
+import model.SpeciesChangeLog;
+import model.SpeciesChangeSubscription;
+import model.SpeciesChangeType;
+import model.SpeciesController;
+import model.SpeciesType;
+
+/**
+ * Command-line benchmark for the sharded species catalog and its change log.
+ * Measures the throughput of a mixed workload of registrations, lookups,
+ * counts and deletions as the number of partitions grows from 1 to the number
+ * of available cores. Then measures how fast attribute changes reach a
+ * subscriber on another thread, checking that no event arrives out of order
+ * and that every lost event is counted.
+ */
+public class CatalogBenchmark {
+	private static final int MAX_CLIENTS = 32;
+	private static final int PRELOADED_SPECIES = 40;
+	private static final int OPERATIONS_PER_CLIENT = 20000;
+	private static final int COUNT_EVERY = 8;
+	private static final int CHANGE_EVENTS = 5000000;
+	private static final int LARGE_LOG_CAPACITY = 1 << 16;
+	private static final int SMALL_LOG_CAPACITY = 64;
+	private static final int BATCH_SIZE = 256;
+
+	/**
+	 * Main method to run the benchmark.
+	 *
+	 * @param args Optionally, the largest number of partitions to try. Defaults
+	 *             to the number of available cores
+	 */
+	public static void main(String[] args) throws InterruptedException, ExecutionException {
+		int cores = Runtime.getRuntime().availableProcessors();
+		int maxShards = args.length > 0 ? Integer.parseInt(args[0]) : cores;
+		int clients = Math.min(Math.max(maxShards, 2), MAX_CLIENTS);
+
+		System.out.println("Sharded catalog benchmark: " + clients + " clients, "
+				+ OPERATIONS_PER_CLIENT + " rounds each");
+		double baseline = 0;
+		for (int shards = 1; shards <= maxShards; shards++) {
+			runCatalog(shards, clients); // Warm up
+			double throughput = runCatalog(shards, clients);
+			if (shards == 1) {
+				baseline = throughput;
+			}
+			System.out.printf("Shards: %2d  Operations/s: %12.0f  Speedup: %.2fx%n",
+					shards, throughput, throughput / baseline);
+		}
+
+		System.out.println("\nChange log benchmark: " + CHANGE_EVENTS + " published events");
+		boolean passed = runChangeLog(BackpressurePolicy.DROP_NEWEST, LARGE_LOG_CAPACITY); // Warm up
+		passed &= runChangeLog(BackpressurePolicy.DROP_NEWEST, LARGE_LOG_CAPACITY);
+		passed &= runChangeLog(BackpressurePolicy.OVERWRITE_OLDEST, LARGE_LOG_CAPACITY);
+		passed &= runChangeLog(BackpressurePolicy.OVERWRITE_OLDEST, SMALL_LOG_CAPACITY);
+		if (!passed) {
+			throw new IllegalStateException("The change log delivered events out of order or miscounted them");
+		}
+	}
+
+	/**
+	 * Runs the mixed workload against a new catalog with the given number of
+	 * partitions. Each client registers a species, looks it up, deletes it and
+	 * counts the species of one type every few rounds.
+	 *
+	 * @param shards  The number of partitions of the catalog
+	 * @param clients The number of threads sending operations
+	 * @return The number of catalog operations completed per second
+	 */
+	private static double runCatalog(int shards, int clients)
+			throws InterruptedException, ExecutionException {
+		try (ShardedSpeciesController catalog = new ShardedSpeciesController(shards)) {
+			for (int i = 0; i < PRELOADED_SPECIES; i++) {
+				catalog.registerFauna("Preloaded " + i, "Preloaded species " + i,
+						SpeciesType.BIRD, i % 2 == 0, i);
+			}
+
+			List<Callable<Long>> tasks = new ArrayList<>();
+			for (int c = 0; c < clients; c++) {
+				String prefix = "Client " + c + " species ";
+				tasks.add(() -> {
+					long operations = 0;
+					for (int i = 0; i < OPERATIONS_PER_CLIENT; i++) {
+						String scientificName = prefix + i;
+						catalog.registerFlora("Benchmark", scientificName,
+								SpeciesType.LAND_FLORA, true, false, 1.5);
+						catalog.getSpeciesInfo(scientificName);
+						catalog.deleteSpecies(scientificName);
+						operations += 3;
+						if (i % COUNT_EVERY == 0) {
+							catalog.countSpeciesByType(SpeciesType.BIRD);
+							operations++;
+						}
+					}
+					return operations;
+				});
+			}
+
+			ExecutorService pool = Executors.newFixedThreadPool(clients);
+			try {
+				long start = System.nanoTime();
+				long operations = 0;
+				for (Future<Long> result : pool.invokeAll(tasks)) {
+					operations += result.get();
+				}
+				double seconds = (System.nanoTime() - start) / 1e9;
+				return operations / seconds;
+			} finally {
+				pool.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Publishes attribute changes from this thread while a subscriber reads them
+	 * on another thread, then checks what the subscriber received.
+	 * Under DROP_NEWEST every published event must arrive, in order and without
+	 * gaps, and every dropped change must be counted as missed by the
+	 * subscriber. Under OVERWRITE_OLDEST the gaps the subscriber sees must add up
+	 * exactly to its missed events count.
+	 *
+	 * @param policy   The backpressure policy of the change log
+	 * @param capacity The capacity of the change log
+	 * @return true if the checks passed, false otherwise
+	 */
+	private static boolean runChangeLog(BackpressurePolicy policy, int capacity)
+			throws InterruptedException {
+		SpeciesController controller = new SpeciesController(capacity, policy);
+		controller.registerFlora("Benchmark", "Benchmark species", SpeciesType.LAND_FLORA,
+				true, false, 0);
+		SpeciesChangeLog changeLog = controller.getChangeLog();
+		SpeciesChangeSubscription subscription = changeLog.subscribe();
+		long last = subscription.getSequence() + CHANGE_EVENTS;
+		SequenceChecker checker = new SequenceChecker(subscription.getSequence());
+
+		Thread reader = new Thread(() -> {
+			while (subscription.getSequence() < last) {
+				subscription.poll(checker, BATCH_SIZE);
+			}
+		});
+		reader.start();
+
+		long start = System.nanoTime();
+		long changes = 0;
+		double maxHeight = 0;
+		while (changeLog.getNextSequence() < last) {
+			maxHeight = maxHeight == 0 ? 1 : 0;
+			controller.editFloraAttributes(0, true, false, maxHeight);
+			changes++;
+		}
+		reader.join();
+		double seconds = (System.nanoTime() - start) / 1e9;
+		subscription.close();
+
+		// Every change must either reach the subscriber or be counted as missed
+		long missed = subscription.getMissedEvents();
+		long dropped = changeLog.getDroppedEvents();
+		boolean passed = checker.errors == 0
+				&& checker.delivered + missed == changes
+				&& checker.skipped + dropped == missed;
+		if (policy == BackpressurePolicy.DROP_NEWEST) {
+			passed &= checker.skipped == 0 && checker.delivered == CHANGE_EVENTS;
+		}
+		System.out.printf("%-16s capacity %6d  Events/s: %12.0f  Changes: %9d  Delivered: %8d"
+				+ "  Missed: %9d (dropped %9d)  %s%n", policy, capacity, CHANGE_EVENTS / seconds,
+				changes, checker.delivered, missed, dropped, passed ? "OK" : "FAILED");
+		return passed;
+	}
+
+	/**
+	 * Listener that checks the events it receives arrive in increasing order and
+	 * adds up the sequence numbers it never saw.
+	 */
+	private static class SequenceChecker implements SpeciesChangeListener {
+		private long expected;
+		private long delivered;
+		private long skipped;
+		private long errors;
+
+		/**
+		 * Creates a checker that expects the given sequence number first.
+		 *
+		 * @param first The sequence number of the first expected event
+		 */
+		SequenceChecker(long first) {
+			this.expected = first;
+		}
+
+		@Override
+		public void onChange(long sequence, SpeciesChangeType type, String scientificName,
+				String detail, boolean endOfBatch) {
+			if (sequence < expected || type != SpeciesChangeType.ATTRIBUTE_CHANGED
+					|| !"maxHeight".equals(detail)) {
+				errors++;
+			} else {
+				skipped += sequence - expected;
+			}
+			expected = sequence + 1;
+			delivered++;
+		}
+	}
+}
@@ -45,6 +45,7 @@ public class SpeciesExecutable {
 			System.out.println("2. Edit a Species");
 			System.out.println("3. Delete a Species");
 			System.out.println("4. Show Species Information");
+			System.out.println("5. Edit Species Attributes");
 			System.out.println("0. Exit");
 
 			int mainOption = reader.nextInt();
@@ -62,6 +63,9 @@ public class SpeciesExecutable {
 				case 4:
 					showSpecies();
 					break;
+				case 5:
+					editSpeciesAttributes();
+					break;
 				case 0:
 					System.out.println("Thank you for using the Species Management System");
 					stopFlag = true;
@@ -195,6 +199,63 @@ public class SpeciesExecutable {
 		}
 	}
 
+	/**
+	 * Handles the species attribute editing process.
+	 * Allows users to modify the flora or fauna specific attributes of existing
+	 * species.
+	 */
+	public void editSpeciesAttributes() {
+		String speciesList = speciesController.showSpeciesList();
+
+		if (speciesList.isEmpty()) {
+			System.out.println("No species registered yet.");
+			return;
+		}
+
+		System.out.println("Current species list:");
+		System.out.println(speciesList);
+
+		System.out.println("\nEnter the number of the species to edit:");
+		int index = reader.nextInt();
+
+		int actualIndex = index - 1;
+		SpeciesType type = speciesController.getSpeciesType(actualIndex);
+
+		if (type == null) {
+			System.out.println("Error: Invalid species index selected.");
+			return;
+		}
+
+		boolean success;
+		if (type == SpeciesType.LAND_FLORA || type == SpeciesType.AQUATIC_FLORA) {
+			System.out.println("Does it have flowers? (true/false):");
+			boolean hasFlowers = reader.nextBoolean();
+
+			System.out.println("Does it have fruits? (true/false):");
+			boolean hasFruits = reader.nextBoolean();
+
+			System.out.println("Enter maximum height (in meters):");
+			double maxHeight = reader.nextDouble();
+
+			success = speciesController.editFloraAttributes(actualIndex, hasFlowers,
+					hasFruits, maxHeight);
+		} else {
+			System.out.println("Is it migratory? (true/false):");
+			boolean isMigratory = reader.nextBoolean();
+
+			System.out.println("Enter maximum weight (in kg):");
+			double maxWeight = reader.nextDouble();
+
+			success = speciesController.editFaunaAttributes(actualIndex, isMigratory, maxWeight);
+		}
+
+		if (success) {
+			System.out.println("Species attributes updated successfully!");
+		} else {
+			System.out.println("Error: Could not update species attributes. Please try again.");
+		}
+	}
+
 	/**
 	 * Handles the species deletion process.
 	 * Allows users to remove species from the catalog.